@@ -0,0 +1,302 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * FrozenSortedList is an immutable, array-backed snapshot of a {@link SortedLinkedList}, created
+ * with {@link SortedLinkedList#freeze()}. The elements are kept in a single contiguous array in
+ * sorted order, so positional access runs in constant time and lookups use binary search in
+ * logarithmic time.
+ *
+ * <p>The list cannot be modified. Use {@link #thaw()} to obtain a mutable {@link SortedLinkedList}
+ * with the same elements.
+ *
+ * <p>Since the list never changes, it can be safely shared between threads once it has been
+ * published.
+ *
+ * @param <T> the type of elements held in this collection, which must be Comparable unless a
+ *     Comparator is provided
+ * @author Pawel Santarius
+ * @version 1.0
+ * @since 2023-10-28
+ */
+public final class FrozenSortedList<T> implements Serializable, Iterable<T> {
+  private final Object[] elements;
+  private final Comparator<? super T> comparator;
+  private final ToLongFunction<? super T> keyPrefix;
+
+  /**
+   * Creates a snapshot over the given array, which must already be sorted by the given comparator
+   * and must not be modified afterwards.
+   *
+   * @param elements the sorted elements
+   * @param comparator the comparator the elements are sorted by, or {@code null} for their natural
+   *     ordering
+   * @param keyPrefix the key prefix function of the source list, handed over on {@link #thaw()}
+   */
+  FrozenSortedList(
+      Object[] elements, Comparator<? super T> comparator, ToLongFunction<? super T> keyPrefix) {
+    this.elements = elements;
+    this.comparator = comparator;
+    this.keyPrefix = keyPrefix;
+  }
+
+  /**
+   * Returns the number of elements in this list.
+   *
+   * @return the number of elements in this list
+   */
+  public int size() {
+    return elements.length;
+  }
+
+  /**
+   * Retrieves the element at the specified position in constant time.
+   *
+   * @param index the index of the element to return
+   * @return the element at the specified position
+   * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    Objects.checkIndex(index, elements.length);
+    return (T) elements[index];
+  }
+
+  /**
+   * Returns the index of the first occurrence of the specified element in this list, or -1 if this
+   * list does not contain the element. The search is a binary search for the first element which
+   * compares equal to the value, followed by an {@code equals} check over the run of elements
+   * comparing equal. A {@code null} value is never found.
+   *
+   * @param value the value to search for
+   * @return the index of the first occurrence of the value, or -1 if it is not present
+   */
+  public int indexOf(T value) {
+    if (value == null) {
+      return -1;
+    }
+    for (int i = lowerBound(value); i < elements.length && compare(i, value) == 0; i++) {
+      if (elements[i].equals(value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last occurrence of the specified element in this list, or -1 if this
+   * list does not contain the element. The search is done by binary search, as in {@link
+   * #indexOf(Object)}. A {@code null} value is never found.
+   *
+   * @param value the value to search for
+   * @return the index of the last occurrence of the value, or -1 if it is not present
+   */
+  public int lastIndexOf(T value) {
+    if (value == null) {
+      return -1;
+    }
+    for (int i = upperBound(value) - 1; i >= 0 && compare(i, value) == 0; i--) {
+      if (elements[i].equals(value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks if this list contains the specified value using binary search. A {@code null} value is
+   * never found.
+   *
+   * @param value the value to search for
+   * @return {@code true} if the value is found, {@code false} otherwise
+   */
+  public boolean contains(T value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the greatest element less than or equal to the given value, or {@code null} if there is
+   * no such element.
+   *
+   * @param value the value to match
+   * @return the greatest element less than or equal to {@code value}, or {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public T floor(T value) {
+    int index = upperBound(value) - 1;
+    return index < 0 ? null : (T) elements[index];
+  }
+
+  /**
+   * Returns the least element greater than or equal to the given value, or {@code null} if there is
+   * no such element.
+   *
+   * @param value the value to match
+   * @return the least element greater than or equal to {@code value}, or {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public T ceiling(T value) {
+    int index = lowerBound(value);
+    return index == elements.length ? null : (T) elements[index];
+  }
+
+  /**
+   * Returns the index of the first element which is not less than the given value, or {@code
+   * size()} if all elements are less than it.
+   */
+  private int lowerBound(T value) {
+    int low = 0;
+    int high = elements.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compare(mid, value) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the first element which is greater than the given value, or {@code size()}
+   * if no element is greater than it.
+   */
+  private int upperBound(T value) {
+    int low = 0;
+    int high = elements.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compare(mid, value) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compare(int index, T value) {
+    T element = (T) elements[index];
+    return comparator == null
+        ? ((Comparable<? super T>) element).compareTo(value)
+        : comparator.compare(element, value);
+  }
+
+  /**
+   * Creates a new mutable {@link SortedLinkedList} containing all elements of this list. The
+   * elements are linked in their existing order, without comparing them again, and the new list
+   * keeps the comparator and key prefix function of the list this snapshot was taken from.
+   *
+   * @return a new SortedLinkedList with the same elements
+   */
+  @SuppressWarnings("unchecked")
+  public SortedLinkedList<T> thaw() {
+    SortedLinkedList<T> list = new SortedLinkedList<>(comparator, keyPrefix);
+    for (Object element : elements) {
+      list.append(list.newElement((T) element));
+    }
+    return list;
+  }
+
+  /**
+   * Converts this list to an {@link ArrayList}. The generated ArrayList is a new copy, independent
+   * of this list.
+   *
+   * @return an ArrayList containing all elements of this list
+   */
+  @SuppressWarnings("unchecked")
+  public ArrayList<T> toArray() {
+    ArrayList<T> array = new ArrayList<>(elements.length);
+    for (Object element : elements) {
+      array.add((T) element);
+    }
+    return array;
+  }
+
+  /**
+   * Compares this list with another object for equality. Two frozen sorted lists are considered
+   * equal if they have the same size and their corresponding elements are equal.
+   *
+   * @param obj the object to be compared for equality with this list
+   * @return {@code true} if the specified object is equal to this list, {@code false} otherwise
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (obj == null || getClass() != obj.getClass()) return false;
+    return Arrays.equals(elements, ((FrozenSortedList<?>) obj).elements);
+  }
+
+  /**
+   * Computes the hash code for this list, using the same formula as {@link
+   * SortedLinkedList#hashCode()}, so a list and its frozen snapshot hash identically.
+   *
+   * @return the hash code value for this list
+   */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(elements);
+  }
+
+  /**
+   * Returns an iterator over the elements in this list in sorted order.
+   *
+   * @return an Iterator.
+   */
+  @Override
+  @NotNull
+  public Iterator<T> iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Performs the given action for each element of this list in sorted order.
+   *
+   * @param action The action to be performed for each element, which must not be null.
+   * @throws NullPointerException if the specified action is null.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super T> action) {
+    Objects.requireNonNull(action);
+    for (Object element : elements) {
+      action.accept((T) element);
+    }
+  }
+
+  /**
+   * Creates a {@link Spliterator} over the backing array. The spliterator is sized and splits
+   * exactly in half, which makes it well suited for parallel streams. It reports {@link
+   * Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link
+   * Spliterator#SUBSIZED}, and also {@link Spliterator#SORTED} when the elements are in their
+   * natural ordering.
+   *
+   * @return a {@code Spliterator} over the elements in this list
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    int characteristics = Spliterator.ORDERED | Spliterator.IMMUTABLE;
+    if (comparator == null) {
+      characteristics |= Spliterator.SORTED;
+    }
+    return Spliterators.spliterator(elements, characteristics);
+  }
+
+  /**
+   * Creates a sequential {@link Stream} with this list as its source.
+   *
+   * @return a sequential {@code Stream} over the elements in this list
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+}
@@ -0,0 +1,153 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * KeyPrefixes provides key prefix functions for common key types, to be used with {@link
+ * SortedLinkedList#SortedLinkedList(java.util.Comparator, ToLongFunction)}. Every function maps a
+ * key to a {@code long} whose unsigned order is consistent with the natural ordering of the key, so
+ * that keys with different prefixes never need a full comparison.
+ *
+ * <p>The functions returned by the factory methods are serializable singletons, so lists using them
+ * stay serializable.
+ *
+ * <p>A composite key can be handled by encoding its leading fields big-endian into a byte array
+ * and using {@link #bytes(byte[])}, or by packing them directly into a {@code long}.
+ *
+ * @author Pawel Santarius
+ * @version 1.0
+ * @since 2023-10-28
+ */
+public final class KeyPrefixes {
+
+  private KeyPrefixes() {}
+
+  /**
+   * Returns a prefix function for {@code String} and other {@code CharSequence} keys, computed by
+   * {@link #string(CharSequence)}.
+   *
+   * @return a serializable prefix function for character sequences
+   */
+  public static ToLongFunction<CharSequence> forStrings() {
+    return cast(Prefix.STRING);
+  }
+
+  /**
+   * Returns a prefix function for {@code Long} keys, computed by {@link #signed(long)}.
+   *
+   * @return a serializable prefix function for longs
+   */
+  public static ToLongFunction<Long> forLongs() {
+    return cast(Prefix.SIGNED);
+  }
+
+  /**
+   * Returns a prefix function for {@code Integer} keys, computed by {@link #signed(long)}.
+   *
+   * @return a serializable prefix function for integers
+   */
+  public static ToLongFunction<Integer> forIntegers() {
+    return cast(Prefix.SIGNED);
+  }
+
+  /**
+   * Returns a prefix function for {@code Short} keys, computed by {@link #signed(long)}.
+   *
+   * @return a serializable prefix function for shorts
+   */
+  public static ToLongFunction<Short> forShorts() {
+    return cast(Prefix.SIGNED);
+  }
+
+  /**
+   * Returns a prefix function for {@code Byte} keys, computed by {@link #signed(long)}.
+   *
+   * @return a serializable prefix function for bytes
+   */
+  public static ToLongFunction<Byte> forBytes() {
+    return cast(Prefix.SIGNED);
+  }
+
+  /**
+   * Returns a prefix function for {@code byte[]} keys compared as unsigned bytes, computed by
+   * {@link #bytes(byte[])}.
+   *
+   * @return a serializable prefix function for byte arrays
+   */
+  public static ToLongFunction<byte[]> forByteArrays() {
+    return cast(Prefix.BYTES);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ToLongFunction<T> cast(Prefix prefix) {
+    return (ToLongFunction<T>) (ToLongFunction<?>) prefix;
+  }
+
+  private enum Prefix implements ToLongFunction<Object> {
+    STRING {
+      @Override
+      public long applyAsLong(Object value) {
+        return string((CharSequence) value);
+      }
+    },
+    SIGNED {
+      @Override
+      public long applyAsLong(Object value) {
+        return signed(((Number) value).longValue());
+      }
+    },
+    BYTES {
+      @Override
+      public long applyAsLong(Object value) {
+        return bytes((byte[]) value);
+      }
+    }
+  }
+
+  /**
+   * Returns the first four UTF-16 characters of the given sequence packed big-endian into a {@code
+   * long}, padded with zeros. The prefix is consistent with {@link String#compareTo(String)}.
+   *
+   * @param value the sequence to take the prefix of
+   * @return the key prefix of the sequence
+   */
+  public static long string(CharSequence value) {
+    long prefix = 0;
+    int length = Math.min(value.length(), 4);
+    for (int i = 0; i < 4; i++) {
+      prefix = prefix << 16 | (i < length ? value.charAt(i) : 0);
+    }
+    return prefix;
+  }
+
+  /**
+   * Returns the given number with its sign bit flipped, so that the unsigned order of the result is
+   * the signed order of the number. The prefix holds the whole key, so a full comparison is only
+   * made for equal numbers. Boxed keys should use {@link #forLongs()}, {@link #forIntegers()},
+   * {@link #forShorts()} or {@link #forBytes()}, since a method reference to this method cannot be
+   * inferred for {@code Integer}, {@code Short} or {@code Byte} lists.
+   *
+   * @param value the number to take the prefix of
+   * @return the key prefix of the number
+   */
+  public static long signed(long value) {
+    return value ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * Returns the first eight bytes of the given array packed big-endian into a {@code long}, padded
+   * with zeros. The prefix is consistent with {@link java.util.Arrays#compareUnsigned(byte[],
+   * byte[])}.
+   *
+   * @param value the bytes to take the prefix of
+   * @return the key prefix of the bytes
+   */
+  public static long bytes(byte[] value) {
+    long prefix = 0;
+    int length = Math.min(value.length, 8);
+    for (int i = 0; i < 8; i++) {
+      prefix = prefix << 8 | (i < length ? value[i] & 0xFF : 0);
+    }
+    return prefix;
+  }
+}
@@ -0,0 +1,10 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+class PrefixedElement<T> extends Element<T> {
+  final long prefix;
+
+  public PrefixedElement(T data, long prefix) {
+    super(data);
+    this.prefix = prefix;
+  }
+}
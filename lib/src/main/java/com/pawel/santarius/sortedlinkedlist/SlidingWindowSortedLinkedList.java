@@ -0,0 +1,480 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * SlidingWindowSortedLinkedList is a {@link SortedLinkedList} that only keeps the elements added
+ * during the last window of time. Every element is tagged with its insertion time and, next to the
+ * sorted links, all elements are chained in arrival order. Stale elements are therefore always
+ * found at the old end of that chain and are expired in a single sweep, without searching the
+ * sorted order.
+ *
+ * <p>On top of the sorted links the elements form a skip list whose links record how many elements
+ * they jump over. This lets {@link #add(Object)} find its position, and {@link #get(int)}, {@link
+ * #percentile(double)} and {@link #median()} find an element by rank, in expected logarithmic time.
+ * Expiring or removing an element, including {@link #remove(int)}, costs the same. {@link #min()}
+ * and {@link #max()} run in constant time.
+ *
+ * <p>Expiry happens automatically on every {@link #add(Object)} and before every public query,
+ * iteration and {@link #freeze()}, and can also be triggered explicitly with {@link #expire()}.
+ *
+ * <p>Like its superclass this implementation is not synchronized. The elements are not serialized,
+ * so a deserialized list starts empty and measures time with {@link System#nanoTime()}.
+ *
+ * @param <T> the type of elements held in this collection, which must be Comparable
+ * @author Pawel Santarius
+ * @version 1.0
+ * @since 2023-10-28
+ */
+public class SlidingWindowSortedLinkedList<T extends Comparable<T>> extends SortedLinkedList<T> {
+  private static final int MAX_LEVEL = 32;
+
+  private final long windowNanos;
+  private transient LongSupplier clock;
+  transient TimedElement<T> oldest;
+  transient TimedElement<T> newest;
+  private transient TimedElement<T> header;
+  private transient int level;
+  private transient long sequence;
+
+  /**
+   * Creates an empty list that keeps the elements added during the given window, measured with
+   * {@link System#nanoTime()}.
+   *
+   * @param window the length of the window, which must be positive
+   * @throws IllegalArgumentException if the window is zero or negative
+   */
+  public SlidingWindowSortedLinkedList(Duration window) {
+    this(window, System::nanoTime);
+  }
+
+  /**
+   * Creates an empty list that keeps the elements added during the given window, measured with the
+   * given nanosecond clock.
+   *
+   * @param window the length of the window, which must be positive
+   * @param clock the source of the current time in nanoseconds
+   * @throws IllegalArgumentException if the window is zero or negative
+   */
+  SlidingWindowSortedLinkedList(Duration window, LongSupplier clock) {
+    Objects.requireNonNull(window);
+    Objects.requireNonNull(clock);
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Window: " + window + " must be positive.");
+    }
+    this.windowNanos = window.toNanos();
+    this.clock = clock;
+    resetSkipList();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    clock = System::nanoTime;
+    resetSkipList();
+  }
+
+  private void resetSkipList() {
+    header = new TimedElement<>(null, 0, 0, MAX_LEVEL);
+    level = 1;
+  }
+
+  /**
+   * Expires the stale elements and adds a new element tagged with the current time. The element is
+   * inserted into the correct position to maintain the sorted order; equal elements are placed
+   * before the existing ones, exactly as in {@link SortedLinkedList}.
+   *
+   * @param value the value to be added
+   */
+  @Override
+  void add(T value) {
+    long now = clock.getAsLong();
+    expire(now);
+    TimedElement<T> newElement = new TimedElement<>(value, now, sequence++, randomLevel());
+    link(newElement);
+    if (newest == null) {
+      oldest = newElement;
+    } else {
+      newest.newer = newElement;
+      newElement.older = newest;
+    }
+    newest = newElement;
+  }
+
+  private static int randomLevel() {
+    int height = 1;
+    while (height < MAX_LEVEL && ThreadLocalRandom.current().nextInt(4) == 0) {
+      height++;
+    }
+    return height;
+  }
+
+  /**
+   * Checks if {@code a} sorts before {@code b}. Equal values are ordered by descending sequence, so
+   * that the most recently added one comes first and every element has a unique position.
+   */
+  private boolean before(TimedElement<T> a, TimedElement<T> b) {
+    int result = compare(a.data, b.data);
+    return result < 0 || (result == 0 && a.sequence > b.sequence);
+  }
+
+  /**
+   * Fills {@code update} with the last element before {@code e} on every level and, when {@code
+   * rank} is not null, {@code rank} with the one-based rank of each of those elements.
+   */
+  private void findPredecessors(TimedElement<T> e, TimedElement<T>[] update, int[] rank) {
+    TimedElement<T> x = header;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.forward[i] != null && before(x.forward[i], e)) {
+        traversed += x.span[i];
+        x = x.forward[i];
+      }
+      update[i] = x;
+      if (rank != null) {
+        rank[i] = traversed;
+      }
+    }
+  }
+
+  /** Links a new element into the skip list and into the sorted links of the superclass. */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void link(TimedElement<T> e) {
+    TimedElement<T>[] update = new TimedElement[MAX_LEVEL];
+    int[] rank = new int[MAX_LEVEL];
+    findPredecessors(e, update, rank);
+    int height = e.forward.length;
+    for (int i = level; i < height; i++) {
+      update[i] = header;
+      rank[i] = 0;
+      header.span[i] = size;
+    }
+    level = Math.max(level, height);
+    for (int i = 0; i < height; i++) {
+      e.forward[i] = update[i].forward[i];
+      update[i].forward[i] = e;
+      e.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+      update[i].span[i] = rank[0] - rank[i] + 1;
+    }
+    for (int i = height; i < level; i++) {
+      update[i].span[i]++;
+    }
+
+    Element<T> previous = update[0] == header ? null : update[0];
+    e.previous = previous;
+    e.next = e.forward[0];
+    if (previous == null) {
+      head = e;
+    } else {
+      previous.next = e;
+    }
+    if (e.next == null) {
+      last = e;
+    } else {
+      e.next.previous = e;
+    }
+    size++;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void unlinkSkipList(TimedElement<T> e) {
+    TimedElement<T>[] update = new TimedElement[MAX_LEVEL];
+    findPredecessors(e, update, null);
+    for (int i = 0; i < level; i++) {
+      if (update[i].forward[i] == e) {
+        update[i].span[i] += e.span[i] - 1;
+        update[i].forward[i] = e.forward[i];
+      } else {
+        update[i].span[i]--;
+      }
+    }
+    while (level > 1 && header.forward[level - 1] == null) {
+      level--;
+    }
+  }
+
+  /**
+   * Returns the element at the given one-based rank by descending the skip list.
+   *
+   * @param rank the rank, between 1 and size inclusive
+   * @return the element at the given rank
+   */
+  private TimedElement<T> elementAt(int rank) {
+    TimedElement<T> x = header;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.forward[i] != null && traversed + x.span[i] <= rank) {
+        traversed += x.span[i];
+        x = x.forward[i];
+      }
+      if (traversed == rank) {
+        return x;
+      }
+    }
+    throw new IllegalStateException();
+  }
+
+  /**
+   * Removes every element which was added before the start of the current window. The sweep starts
+   * at the oldest element and stops at the first one still inside the window.
+   *
+   * @return the number of removed elements
+   */
+  public int expire() {
+    return expire(clock.getAsLong());
+  }
+
+  private int expire(long now) {
+    int removed = 0;
+    while (oldest != null && now - oldest.timestamp >= windowNanos) {
+      remove(oldest);
+      removed++;
+    }
+    return removed;
+  }
+
+  /**
+   * Removes the specified element from the sorted order, the skip list and the arrival order.
+   *
+   * @param e the element to be removed
+   */
+  @Override
+  void remove(Element<T> e) {
+    TimedElement<T> timed = (TimedElement<T>) e;
+    unlinkSkipList(timed);
+    super.remove(e);
+    unlinkArrival(timed);
+  }
+
+  /**
+   * Expires the stale elements, then removes the element at the specified position of the current
+   * window in expected logarithmic time.
+   *
+   * @param index the index of the element to be removed
+   * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+   */
+  @Override
+  public void remove(int index) {
+    expire();
+    checkBoundsExclusive(index);
+    remove(elementAt(index + 1));
+  }
+
+  /**
+   * Removes the smallest element from the list.
+   *
+   * @throws NoSuchElementException if the list is empty
+   */
+  @Override
+  void removeFirst() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    remove(head);
+  }
+
+  /**
+   * Removes the largest element from the list.
+   *
+   * @throws NoSuchElementException if the list is empty
+   */
+  @Override
+  void removeLast() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    remove(last);
+  }
+
+  /**
+   * Clears the list, removing all elements from the sorted order, the skip list and the arrival
+   * order.
+   */
+  @Override
+  void clear() {
+    super.clear();
+    oldest = newest = null;
+    resetSkipList();
+  }
+
+  private void unlinkArrival(TimedElement<T> e) {
+    if (e.older == null) {
+      oldest = e.newer;
+    } else {
+      e.older.newer = e.newer;
+    }
+    if (e.newer == null) {
+      newest = e.older;
+    } else {
+      e.newer.older = e.older;
+    }
+    e.older = e.newer = null;
+  }
+
+  /**
+   * Returns the number of elements inside the current window.
+   *
+   * @return the number of elements in this list
+   */
+  public int size() {
+    expire();
+    return size;
+  }
+
+  /**
+   * Retrieves the element at the specified position of the current window in expected logarithmic
+   * time.
+   *
+   * @param index the index of the element whose data is to be returned
+   * @return the data of the element at the specified position
+   * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+   */
+  @Override
+  public T get(int index) {
+    expire();
+    checkBoundsExclusive(index);
+    return elementAt(index + 1).data;
+  }
+
+  /** Expires the stale elements, then returns the index of the first occurrence of the value. */
+  @Override
+  public int indexOf(T value) {
+    expire();
+    return super.indexOf(value);
+  }
+
+  /** Expires the stale elements, then returns the index of the last occurrence of the value. */
+  @Override
+  public int lastIndexOf(T value) {
+    expire();
+    return super.lastIndexOf(value);
+  }
+
+  /** Expires the stale elements, then checks if the list contains the value. */
+  @Override
+  public boolean contains(T value) {
+    expire();
+    return super.contains(value);
+  }
+
+  /** Expires the stale elements, then copies the current window to an {@link ArrayList}. */
+  @Override
+  public ArrayList<T> toArray() {
+    expire();
+    return super.toArray();
+  }
+
+  /** Expires the stale elements, then creates an immutable snapshot of the current window. */
+  @Override
+  public FrozenSortedList<T> freeze() {
+    expire();
+    return super.freeze();
+  }
+
+  /** Expires the stale elements, then compares the current window with another object. */
+  @Override
+  public boolean equals(Object obj) {
+    expire();
+    return super.equals(obj);
+  }
+
+  /** Expires the stale elements, then returns an iterator over the current window. */
+  @Override
+  @NotNull
+  public Iterator<T> iterator() {
+    expire();
+    return super.iterator();
+  }
+
+  /** Expires the stale elements, then performs the action for each element of the window. */
+  @Override
+  public void forEach(Consumer<? super T> action) {
+    expire();
+    super.forEach(action);
+  }
+
+  /** Expires the stale elements, then creates a spliterator over the current window. */
+  @Override
+  public Spliterator<T> spliterator() {
+    expire();
+    return super.spliterator();
+  }
+
+  /**
+   * Returns the smallest element inside the current window in constant time.
+   *
+   * @return the smallest element
+   * @throws NoSuchElementException if the window is empty
+   */
+  public T min() {
+    expire();
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return head.data;
+  }
+
+  /**
+   * Returns the largest element inside the current window in constant time.
+   *
+   * @return the largest element
+   * @throws NoSuchElementException if the window is empty
+   */
+  public T max() {
+    expire();
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return last.data;
+  }
+
+  /**
+   * Returns the lower median of the elements inside the current window, which is the same as
+   * {@code percentile(50)}.
+   *
+   * @return the median element
+   * @throws NoSuchElementException if the window is empty
+   */
+  public T median() {
+    return percentile(50);
+  }
+
+  /**
+   * Returns the element at the given percentile of the current window, using the nearest-rank
+   * method: the smallest element such that at least {@code p} percent of the elements are less than
+   * or equal to it. {@code percentile(0)} is the minimum and {@code percentile(100)} the maximum.
+   *
+   * <p>The rank is computed exactly from the decimal value of {@code p}, so that for example {@code
+   * percentile(7)} of 100 elements is the 7th one. The element is then found by rank in the skip
+   * list, in expected logarithmic time and without copying the window.
+   *
+   * @param p the percentile, between 0 and 100 inclusive
+   * @return the element at the given percentile
+   * @throws IllegalArgumentException if {@code p} is not between 0 and 100
+   * @throws NoSuchElementException if the window is empty
+   */
+  public T percentile(double p) {
+    if (!(p >= 0 && p <= 100)) {
+      throw new IllegalArgumentException("Percentile: " + p + " must be between 0 and 100.");
+    }
+    expire();
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    int rank =
+        BigDecimal.valueOf(p)
+            .multiply(BigDecimal.valueOf(size))
+            .movePointLeft(2)
+            .setScale(0, RoundingMode.CEILING)
+            .intValueExact();
+    return elementAt(Math.max(rank, 1)).data;
+  }
+}
@@ -3,6 +3,7 @@ package com.pawel.santarius.sortedlinkedlist;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +14,17 @@ import org.jetbrains.annotations.NotNull;
  * a Comparator provided at list creation time. This implementation permits all elements, including
  * null.
  *
+ * <p>Comparisons can be made cheaper with a key prefix function, which maps every element to a
+ * fixed-width {@code long} prefix of its key. The prefix is computed once, cached in the element
+ * and compared as an unsigned number while walking the list; the full comparison is only made when
+ * two prefixes are equal. See {@link KeyPrefixes} for prefix functions of common key types.
+ *
+ * <p>Serializing a list does not preserve its elements, so a deserialized list is empty; use a
+ * {@link FrozenSortedList} from {@link #freeze()} to serialize the contents. The comparator and the
+ * key prefix function are serialized with the list, so the list is only serializable if they are.
+ * The functions returned by {@link KeyPrefixes} and the comparators of {@link
+ * Comparator#naturalOrder()} and {@link Comparator#reverseOrder()} are serializable.
+ *
  * <p>This class provides methods to add, remove, and query elements. It also supports various
  * utility methods such as getting the size, checking if an element exists, and converting the list
  * to an array.
@@ -25,15 +37,56 @@ import org.jetbrains.annotations.NotNull;
  * any time after the iterator is created, in any way except through the iterator's own remove
  * method, the iterator will throw a {@link ConcurrentModificationException}.
  *
- * @param <T> the type of elements held in this collection, which must be Comparable
+ * @param <T> the type of elements held in this collection, which must be Comparable unless a
+ *     Comparator is provided
  * @author Pawel Santarius
  * @version 1.0
  * @since 2023-10-28
  */
-public class SortedLinkedList<T extends Comparable<T>> implements Serializable, Iterable<T> {
+public class SortedLinkedList<T> implements Serializable, Iterable<T> {
   transient Element<T> head;
   transient Element<T> last;
   transient int size = 0;
+  final Comparator<? super T> comparator;
+  final ToLongFunction<? super T> keyPrefix;
+
+  /**
+   * Creates an empty list sorted according to the natural ordering of its elements, which must
+   * implement {@link Comparable}.
+   */
+  public SortedLinkedList() {
+    this(null, null);
+  }
+
+  /**
+   * Creates an empty list sorted according to the given comparator.
+   *
+   * @param comparator the comparator used to order the list, or {@code null} to use the natural
+   *     ordering of the elements
+   */
+  public SortedLinkedList(Comparator<? super T> comparator) {
+    this(comparator, null);
+  }
+
+  /**
+   * Creates an empty list sorted according to the given comparator, with comparisons shortcut by
+   * the given key prefix function.
+   *
+   * <p>The prefix function must be consistent with the ordering: whenever {@code a} sorts before
+   * {@code b}, {@code Long.compareUnsigned(keyPrefix(a), keyPrefix(b))} must not be positive. Two
+   * elements with different prefixes are then ordered by their prefixes alone.
+   *
+   * <p>The list is only serializable if both the comparator and the prefix function are.
+   *
+   * @param comparator the comparator used to order the list, or {@code null} to use the natural
+   *     ordering of the elements
+   * @param keyPrefix the function computing the key prefix of an element, or {@code null} to always
+   *     use the full comparison
+   */
+  public SortedLinkedList(Comparator<? super T> comparator, ToLongFunction<? super T> keyPrefix) {
+    this.comparator = comparator;
+    this.keyPrefix = keyPrefix;
+  }
 
   /**
    * Adds a new element to the list. The element is inserted into the correct position to maintain
@@ -42,19 +95,19 @@ public class SortedLinkedList<T extends Comparable<T>> implements Serializable,
    * @param value the value to be added
    */
   void add(T value) {
-    Element<T> newElement = new Element<>(value);
+    Element<T> newElement = newElement(value);
     if (head == null) {
       newElement.previous = null;
       head = newElement;
       last = newElement;
-    } else if (head.data.compareTo(value) >= 0) {
+    } else if (compare(head, newElement) >= 0) {
       newElement.previous = null;
       newElement.next = head;
       head.previous = newElement;
       head = newElement;
     } else {
       Element<T> current = head;
-      while (current.next != null && current.next.data.compareTo(value) < 0) {
+      while (current.next != null && compare(current.next, newElement) < 0) {
         current = current.next;
       }
       newElement.next = current.next;
@@ -70,6 +123,75 @@ public class SortedLinkedList<T extends Comparable<T>> implements Serializable,
     size++;
   }
 
+  /**
+   * Creates an element holding the given value. When a key prefix function is set, the element
+   * caches the prefix of the value; otherwise a plain element without the prefix is created.
+   *
+   * @param value the value of the element
+   * @return a new element, not linked into any list
+   */
+  Element<T> newElement(T value) {
+    if (keyPrefix == null) {
+      return new Element<>(value);
+    }
+    return new PrefixedElement<>(value, keyPrefix.applyAsLong(value));
+  }
+
+  /**
+   * Links an element at the end of the list without comparing it to the others. Assumes the element
+   * is not smaller than the current last element, so the sorted order is preserved.
+   *
+   * @param newElement the element to be linked, which must not be part of any list
+   */
+  void append(Element<T> newElement) {
+    if (last == null) {
+      head = newElement;
+    } else {
+      last.next = newElement;
+      newElement.previous = last;
+    }
+    last = newElement;
+    size++;
+  }
+
+  /**
+   * Compares two elements of this list. When a key prefix function is set, the cached prefixes are
+   * compared first and the full comparison is only made if they are equal. Elements of a list with
+   * a key prefix function are always created by {@link #newElement(Object)}.
+   *
+   * @param a the first element to be compared
+   * @param b the second element to be compared
+   * @return a negative integer, zero, or a positive integer as the first element sorts before,
+   *     equal to, or after the second
+   */
+  int compare(Element<T> a, Element<T> b) {
+    if (keyPrefix != null) {
+      int result =
+          Long.compareUnsigned(((PrefixedElement<T>) a).prefix, ((PrefixedElement<T>) b).prefix);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return compare(a.data, b.data);
+  }
+
+  /**
+   * Compares two values using the comparator of this list, or their natural ordering if there is
+   * none.
+   *
+   * @param a the first value to be compared
+   * @param b the second value to be compared
+   * @return a negative integer, zero, or a positive integer as the first value sorts before,
+   *     equal to, or after the second
+   * @throws ClassCastException if there is no comparator and the values are not Comparable
+   */
+  @SuppressWarnings("unchecked")
+  int compare(T a, T b) {
+    return comparator == null
+        ? ((Comparable<? super T>) a).compareTo(b)
+        : comparator.compare(a, b);
+  }
+
   /**
    * Adds all elements from an ArrayList to the list. Each element is inserted into the correct
    * position to maintain the sorted order.
@@ -234,7 +356,7 @@ public class SortedLinkedList<T extends Comparable<T>> implements Serializable,
    * @throws IndexOutOfBoundsException if index is negative or not less than the current size of the
    *     list
    */
-  private void checkBoundsExclusive(int index) {
+  void checkBoundsExclusive(int index) {
     if (index < 0) {
       throw new IndexOutOfBoundsException("Index: " + index + " can not be negative number.");
     }
@@ -341,6 +463,24 @@ public class SortedLinkedList<T extends Comparable<T>> implements Serializable,
     return array;
   }
 
+  /**
+   * Creates an immutable snapshot of this list backed by a contiguous array. The snapshot offers
+   * constant time positional access and binary search lookups, which makes it the better shape for
+   * tables that are built once and read many times. Later changes to this list are not reflected in
+   * the snapshot.
+   *
+   * @return a {@link FrozenSortedList} containing all elements of this list in the same order
+   */
+  public FrozenSortedList<T> freeze() {
+    Object[] elements = new Object[size];
+    Element<T> e = head;
+    for (int i = 0; i < size; i++) {
+      elements[i] = e.data;
+      e = e.next;
+    }
+    return new FrozenSortedList<>(elements, comparator, keyPrefix);
+  }
+
   /**
    * Compares this sorted linked list with another object for equality. Two sorted linked lists are
    * considered equal if they have the same size and their corresponding elements are equal.
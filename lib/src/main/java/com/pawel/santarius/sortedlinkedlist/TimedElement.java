@@ -0,0 +1,21 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+class TimedElement<T> extends Element<T> {
+  final long timestamp;
+  final long sequence;
+  TimedElement<T> older;
+  TimedElement<T> newer;
+  TimedElement<T>[] forward;
+  int[] span;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public TimedElement(T data, long timestamp, long sequence, int level) {
+    super(data);
+    this.timestamp = timestamp;
+    this.sequence = sequence;
+    this.older = null;
+    this.newer = null;
+    this.forward = new TimedElement[level];
+    this.span = new int[level];
+  }
+}
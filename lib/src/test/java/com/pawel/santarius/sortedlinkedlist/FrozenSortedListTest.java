@@ -0,0 +1,110 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FrozenSortedListTest {
+
+  private SortedLinkedList<Integer> sortedLinkedList;
+  private FrozenSortedList<Integer> frozen;
+
+  @Before
+  public void init() {
+    sortedLinkedList = new SortedLinkedList<>();
+    sortedLinkedList.add(new ArrayList<>(List.of(5, 1, 3, 3, 9)));
+    frozen = sortedLinkedList.freeze();
+  }
+
+  @Test
+  public void get() {
+    assertEquals(5, frozen.size());
+    assertEquals(Integer.valueOf(1), frozen.get(0));
+    assertEquals(Integer.valueOf(9), frozen.get(4));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetIndexGreaterThanSize() {
+    frozen.get(5);
+  }
+
+  @Test
+  public void indexOf() {
+    assertEquals(1, frozen.indexOf(3));
+    assertEquals(2, frozen.lastIndexOf(3));
+    assertEquals(-1, frozen.indexOf(4));
+    assertEquals(-1, frozen.lastIndexOf(0));
+  }
+
+  @Test
+  public void contains() {
+    assertTrue(frozen.contains(9));
+    assertFalse(frozen.contains(10));
+  }
+
+  @Test
+  public void lookupOfNull() {
+    assertFalse(frozen.contains(null));
+    assertEquals(-1, frozen.indexOf(null));
+    assertEquals(-1, frozen.lastIndexOf(null));
+    assertEquals(sortedLinkedList.contains(null), frozen.contains(null));
+  }
+
+  @Test
+  public void floorAndCeiling() {
+    assertEquals(Integer.valueOf(3), frozen.floor(4));
+    assertEquals(Integer.valueOf(5), frozen.ceiling(4));
+    assertEquals(Integer.valueOf(3), frozen.floor(3));
+    assertEquals(Integer.valueOf(3), frozen.ceiling(3));
+    assertNull(frozen.floor(0));
+    assertNull(frozen.ceiling(10));
+  }
+
+  @Test
+  public void freezeIsIndependentOfSource() {
+    sortedLinkedList.add(0);
+    assertEquals(5, frozen.size());
+    assertEquals(Integer.valueOf(1), frozen.get(0));
+  }
+
+  @Test
+  public void thaw() {
+    SortedLinkedList<Integer> thawed = frozen.thaw();
+    assertEquals(sortedLinkedList, thawed);
+    assertNull(thawed.head.previous);
+    assertNull(thawed.last.next);
+    thawed.add(4);
+    assertEquals(3, thawed.indexOf(4));
+  }
+
+  @Test
+  public void hashCodeMatchesSource() {
+    assertEquals(sortedLinkedList.hashCode(), frozen.hashCode());
+  }
+
+  @Test
+  public void parallelStream() {
+    Spliterator<Integer> spliterator = frozen.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.SUBSIZED));
+    assertNotNull(spliterator.trySplit());
+    List<Integer> list =
+        frozen.stream().parallel().map(integer -> integer + 1).collect(Collectors.toList());
+    assertEquals(List.of(2, 4, 4, 6, 10), list);
+  }
+
+  @Test
+  public void comparator() {
+    SortedLinkedList<Integer> reversed = new SortedLinkedList<>(Comparator.reverseOrder());
+    reversed.add(new ArrayList<>(List.of(2, 7, 4)));
+    FrozenSortedList<Integer> frozenReversed = reversed.freeze();
+    assertEquals(1, frozenReversed.indexOf(4));
+    assertEquals(Integer.valueOf(7), frozenReversed.floor(5));
+    assertFalse(frozenReversed.spliterator().hasCharacteristics(Spliterator.SORTED));
+    SortedLinkedList<Integer> thawed = frozenReversed.thaw();
+    thawed.add(5);
+    assertEquals(List.of(7, 5, 4, 2), thawed.toArray());
+  }
+}
@@ -0,0 +1,201 @@
+package com.pawel.santarius.sortedlinkedlist;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.time.Duration;
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SlidingWindowSortedLinkedListTest {
+
+  private long now;
+  private SlidingWindowSortedLinkedList<Long> window;
+
+  @Before
+  public void init() {
+    now = 0;
+    window = new SlidingWindowSortedLinkedList<>(Duration.ofNanos(10), () -> now);
+  }
+
+  @Test
+  public void addKeepsSortedOrder() {
+    window.add(5L);
+    window.add(1L);
+    window.add(3L);
+    assertEquals(3, window.size);
+    assertEquals(Long.valueOf(1), window.get(0));
+    assertEquals(Long.valueOf(5), window.get(2));
+  }
+
+  @Test
+  public void expireRemovesOnlyStaleElements() {
+    window.add(5L);
+    window.add(1L);
+    now = 5;
+    window.add(3L);
+    now = 10;
+    assertEquals(2, window.expire());
+    assertEquals(1, window.size);
+    assertEquals(Long.valueOf(3), window.get(0));
+    assertSame(window.oldest, window.newest);
+  }
+
+  @Test
+  public void addExpiresStaleElements() {
+    window.add(7L);
+    now = 20;
+    window.add(2L);
+    assertEquals(1, window.size);
+    assertEquals(Long.valueOf(2), window.min());
+  }
+
+  @Test
+  public void minAndMax() {
+    window.add(4L);
+    window.add(9L);
+    window.add(2L);
+    assertEquals(Long.valueOf(2), window.min());
+    assertEquals(Long.valueOf(9), window.max());
+  }
+
+  @Test
+  public void percentile() {
+    for (long i = 100; i >= 1; i--) {
+      window.add(i);
+    }
+    assertEquals(Long.valueOf(1), window.percentile(0));
+    assertEquals(Long.valueOf(50), window.median());
+    assertEquals(Long.valueOf(99), window.percentile(99));
+    assertEquals(Long.valueOf(100), window.percentile(100));
+  }
+
+  @Test
+  public void percentileAfterExpiry() {
+    window.add(1L);
+    window.add(2L);
+    assertEquals(Long.valueOf(2), window.percentile(100));
+    now = 3;
+    window.add(3L);
+    now = 10;
+    assertEquals(Long.valueOf(3), window.median());
+  }
+
+  @Test
+  public void removeKeepsArrivalOrder() {
+    window.add(1L);
+    now = 1;
+    window.add(2L);
+    now = 2;
+    window.add(3L);
+    window.removeFirst();
+    window.removeLast();
+    now = 10;
+    assertEquals(0, window.expire());
+    assertEquals(Long.valueOf(2), window.get(0));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void medianOfEmptyWindow() {
+    window.median();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void percentileOutOfRange() {
+    window.add(1L);
+    window.percentile(101);
+  }
+
+  @Test
+  public void rankMatchesSortedOrder() {
+    window = new SlidingWindowSortedLinkedList<>(Duration.ofNanos(500), () -> now);
+    Random random = new Random(42);
+    for (int i = 0; i < 2000; i++) {
+      now = i;
+      window.add((long) random.nextInt(100));
+      if (i % 7 == 0) {
+        window.remove(random.nextInt(window.size));
+      }
+      if (i % 100 == 50) {
+        ArrayList<Long> sorted = window.toArray();
+        for (int j = 0; j < sorted.size(); j++) {
+          assertEquals(sorted.get(j), window.get(j));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void percentileRanks() {
+    ArrayList<Long> values = new ArrayList<>();
+    for (long i = 1; i <= 100; i++) {
+      values.add(i);
+    }
+    Collections.shuffle(values, new Random(7));
+    values.forEach(window::add);
+    assertEquals(Long.valueOf(1), window.percentile(0.5));
+    assertEquals(Long.valueOf(7), window.percentile(7));
+    assertEquals(Long.valueOf(13), window.percentile(12.5));
+    assertEquals(Long.valueOf(99), window.percentile(99));
+    assertEquals(Long.valueOf(100), window.percentile(99.9));
+  }
+
+  @Test
+  public void percentileRanksOfLargeWindow() {
+    for (long i = 1000; i >= 1; i--) {
+      window.add(i);
+    }
+    assertEquals(Long.valueOf(999), window.percentile(99.9));
+    assertEquals(Long.valueOf(990), window.percentile(99));
+    assertEquals(Long.valueOf(70), window.percentile(7));
+  }
+
+  @Test
+  public void removeByIndexExpiresFirst() {
+    window.add(1L);
+    now = 5;
+    window.add(2L);
+    now = 10;
+    try {
+      window.remove(1);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+      assertEquals(1, window.size());
+    }
+    window.remove(0);
+    assertEquals(0, window.size());
+    assertNull(window.oldest);
+  }
+
+  @Test
+  public void readsExpireStaleElements() {
+    window.add(1L);
+    now = 10;
+    assertFalse(window.contains(1L));
+    assertEquals(-1, window.indexOf(1L));
+    assertEquals(0, window.size());
+    assertFalse(window.iterator().hasNext());
+    assertEquals(0, window.freeze().size());
+  }
+
+  @Test
+  public void serialization() throws Exception {
+    SlidingWindowSortedLinkedList<Long> list =
+        new SlidingWindowSortedLinkedList<>(Duration.ofSeconds(1));
+    list.add(1L);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(list);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      SlidingWindowSortedLinkedList<Long> copy =
+          (SlidingWindowSortedLinkedList<Long>) in.readObject();
+      assertEquals(0, copy.size());
+      copy.add(2L);
+      assertEquals(Long.valueOf(2), copy.median());
+    }
+  }
+}
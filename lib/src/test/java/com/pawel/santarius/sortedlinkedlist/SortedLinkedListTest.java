@@ -2,6 +2,7 @@ package com.pawel.santarius.sortedlinkedlist;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.util.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -190,4 +191,88 @@ public class SortedLinkedListTest {
     assertEquals(list.get(0).intValue(), 5);
     assertEquals(list.get(1).intValue(), 8);
   }
+
+  @Test
+  public void comparator() {
+    SortedLinkedList<Integer> reversed = new SortedLinkedList<>(Comparator.reverseOrder());
+    reversed.add(new ArrayList<>(List.of(2, 7, 4)));
+    assertEquals(reversed.toArray(), List.of(7, 4, 2));
+  }
+
+  @Test
+  public void keyPrefixOrdersLikeComparator() {
+    SortedLinkedList<String> prefixed =
+        new SortedLinkedList<>(Comparator.naturalOrder(), KeyPrefixes.forStrings());
+    List<String> words = List.of("banana", "band", "a", "ban", "apple", "", "bandana", "\uffffz");
+    prefixed.add(new ArrayList<>(words));
+    ArrayList<String> sorted = new ArrayList<>(words);
+    Collections.sort(sorted);
+    assertEquals(sorted, prefixed.toArray());
+  }
+
+  @Test
+  public void keyPrefixSkipsComparatorOnDifferentPrefixes() {
+    int[] comparisons = {0};
+    SortedLinkedList<Long> prefixed =
+        new SortedLinkedList<>(
+            (a, b) -> {
+              comparisons[0]++;
+              return a.compareTo(b);
+            },
+            KeyPrefixes.forLongs());
+    prefixed.add(new ArrayList<>(List.of(3L, -5L, 8L, 0L, -5L)));
+    assertEquals(prefixed.toArray(), List.of(-5L, -5L, 0L, 3L, 8L));
+    assertEquals(1, comparisons[0]);
+  }
+
+  @Test
+  public void keyPrefixOfIntegers() {
+    SortedLinkedList<Integer> prefixed = new SortedLinkedList<>(null, KeyPrefixes.forIntegers());
+    prefixed.add(new ArrayList<>(List.of(3, Integer.MIN_VALUE, -1, Integer.MAX_VALUE, 0)));
+    assertEquals(List.of(Integer.MIN_VALUE, -1, 0, 3, Integer.MAX_VALUE), prefixed.toArray());
+    assertSame(PrefixedElement.class, prefixed.head.getClass());
+  }
+
+  @Test
+  public void keyPrefixOnlyCachedInPrefixMode() {
+    sortedLinkedList.add(1);
+    assertSame(Element.class, sortedLinkedList.head.getClass());
+  }
+
+  @Test
+  public void serializationWithKeyPrefix() throws Exception {
+    SortedLinkedList<String> prefixed =
+        new SortedLinkedList<>(Comparator.naturalOrder(), KeyPrefixes.forStrings());
+    prefixed.add(new ArrayList<>(List.of("pear", "apple", "plum")));
+    FrozenSortedList<String> frozen = prefixed.freeze();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(prefixed);
+      out.writeObject(frozen);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      SortedLinkedList<String> list = (SortedLinkedList<String>) in.readObject();
+      assertEquals(0, list.size);
+      list.add("fig");
+      assertEquals(List.of("fig"), list.toArray());
+      @SuppressWarnings("unchecked")
+      FrozenSortedList<String> copy = (FrozenSortedList<String>) in.readObject();
+      assertEquals(frozen, copy);
+      SortedLinkedList<String> thawed = copy.thaw();
+      thawed.add("banana");
+      assertEquals(List.of("apple", "banana", "pear", "plum"), thawed.toArray());
+    }
+  }
+
+  @Test
+  public void keyPrefixOfBytes() {
+    assertTrue(
+        Long.compareUnsigned(
+                KeyPrefixes.bytes(new byte[] {1, (byte) 0xFF}), KeyPrefixes.bytes(new byte[] {2}))
+            < 0);
+    assertEquals(0x0102000000000000L, KeyPrefixes.bytes(new byte[] {1, 2}));
+  }
 }